@@ -0,0 +1,121 @@
+package com.snehpandya.rxrecipes.cache;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.reactivex.Single;
+import io.reactivex.disposables.SerialDisposable;
+import io.reactivex.subjects.AsyncSubject;
+
+/**
+ * Memoizes expensive one-shot computations by key.
+ *
+ * Each key is backed by an AsyncSubject, so the source runs at most once
+ * and every subscriber, early or late, gets its terminal value.
+ * A source that fails is dropped from the cache so the next subscriber
+ * starts it again, and at most maxSize keys are kept, least recently
+ * used first out.
+ *
+ * The source only runs once while its key stays cached. Evicting or
+ * invalidating a key cancels its source if it is still running and
+ * nobody is subscribed; if somebody is, the source keeps running for
+ * them while the next subscriber starts a second computation.
+ */
+public class MemoCache<K, V> {
+
+    private final Map<K, Entry<V>> mEntries;
+
+    public MemoCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize <= 0: " + maxSize);
+        }
+        mEntries = new LinkedHashMap<K, Entry<V>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > maxSize) {
+                    eldest.getValue().cancelIfUnobserved();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns a Single that subscribes to source the first time any caller
+     * subscribes for this key, and replays its result afterwards.
+     * The source keeps running even if every subscriber disposes, so the
+     * result is there for the next one, unless the key is evicted or
+     * invalidated first.
+     */
+    public Single<V> get(K key, Single<V> source) {
+        return Single.defer(() -> {
+            Entry<V> entry;
+            boolean created = false;
+            synchronized (this) {
+                entry = mEntries.get(key);
+                if (entry == null) {
+                    entry = new Entry<>();
+                    mEntries.put(key, entry);
+                    created = true;
+                }
+            }
+            if (created) {
+                Entry<V> pending = entry;
+                pending.load.replace(source.subscribe(v -> {
+                    pending.subject.onNext(v);
+                    pending.subject.onComplete();
+                }, e -> {
+                    remove(key, pending);
+                    pending.subject.onError(e);
+                }));
+            }
+            return entry.subject.singleOrError();
+        });
+    }
+
+    public void invalidate(K key) {
+        Entry<V> entry;
+        synchronized (this) {
+            entry = mEntries.remove(key);
+        }
+        if (entry != null) {
+            entry.cancelIfUnobserved();
+        }
+    }
+
+    public void clear() {
+        List<Entry<V>> entries;
+        synchronized (this) {
+            entries = new ArrayList<>(mEntries.values());
+            mEntries.clear();
+        }
+        for (Entry<V> entry : entries) {
+            entry.cancelIfUnobserved();
+        }
+    }
+
+    public synchronized int size() {
+        return mEntries.size();
+    }
+
+    private synchronized void remove(K key, Entry<V> entry) {
+        // The key may already point at a newer computation
+        if (mEntries.get(key) == entry) {
+            mEntries.remove(key);
+        }
+    }
+
+    private static final class Entry<V> {
+        final AsyncSubject<V> subject = AsyncSubject.create();
+        final SerialDisposable load = new SerialDisposable();
+
+        void cancelIfUnobserved() {
+            if (!subject.hasObservers()) {
+                load.dispose();
+            }
+        }
+    }
+}
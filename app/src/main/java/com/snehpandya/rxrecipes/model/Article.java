@@ -2,10 +2,14 @@ package com.snehpandya.rxrecipes.model;
 
 import android.os.SystemClock;
 
+import com.snehpandya.rxrecipes.cache.MemoCache;
+
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import io.reactivex.Observable;
+import io.reactivex.Single;
 import io.reactivex.android.schedulers.AndroidSchedulers;
 import io.reactivex.schedulers.Schedulers;
 
@@ -15,8 +19,20 @@ import io.reactivex.schedulers.Schedulers;
 
 public class Article {
 
+    private static final String ARTICLES_KEY = "articles";
+    private static final MemoCache<String, List<String>> ARTICLES_CACHE = new MemoCache<>(1);
+
+    private final MemoCache<String, List<String>> articlesCache;
     private String name;
 
+    public Article() {
+        this(ARTICLES_CACHE);
+    }
+
+    public Article(MemoCache<String, List<String>> articlesCache) {
+        this.articlesCache = articlesCache;
+    }
+
     /*
         **Wrapped Observable.just() with defer()**
 
@@ -50,6 +66,24 @@ public class Article {
                 .observeOn(AndroidSchedulers.mainThread());
     }
 
+    /*
+        **Memoized articles**
+
+        getArticles() takes 3 seconds, so it runs at most once
+        and every Subscriber gets the same list, like an AsyncSubject.
+        The list is shared, so it is unmodifiable.
+
+        !!Tip: If loading fails, the next Subscriber tries again.
+    */
+
+    public Observable<List<String>> articlesObservable() {
+        Single<List<String>> load = Single.fromCallable(() -> Collections.unmodifiableList(getArticles()))
+                .subscribeOn(Schedulers.io());
+        return articlesCache.get(ARTICLES_KEY, load)
+                .toObservable()
+                .observeOn(AndroidSchedulers.mainThread());
+    }
+
     public List<String> getArticles() {
         SystemClock.sleep(3000);
         return createArticles();
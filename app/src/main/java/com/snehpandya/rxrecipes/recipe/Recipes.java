@@ -0,0 +1,638 @@
+package com.snehpandya.rxrecipes.recipe;
+
+import com.snehpandya.rxrecipes.model.Article;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.Maybe;
+import io.reactivex.Observable;
+import io.reactivex.Observer;
+import io.reactivex.Single;
+import io.reactivex.android.schedulers.AndroidSchedulers;
+import io.reactivex.functions.Consumer;
+import io.reactivex.schedulers.Schedulers;
+import io.reactivex.subjects.AsyncSubject;
+import io.reactivex.subjects.BehaviorSubject;
+import io.reactivex.subjects.PublishSubject;
+import io.reactivex.subjects.ReplaySubject;
+
+/**
+ * Every recipe shown by MainActivity, assembled without subscribing
+ * so that it can be run against a TestScheduler on a plain JVM.
+ */
+public class Recipes {
+
+    private final Article mArticle;
+
+    public Recipes(Article article) {
+        mArticle = article;
+    }
+
+    /*
+        Simple implementation of Observable and Subscriber
+
+        !!Key Idea 1: Observable and Subscriber can do anything.
+
+        !!Ket Idea 2: Observable and Subscriber are independent
+        of the transformational steps between them.
+
+        !!Key Idea 3: Hot vs Cold Observables ->
+        Emits Items all the time even when no one is listening
+        vs
+        Only emits items when it has a subscriber
+
+        !!Key idea #4: Operators let you do anything to the stream of data.
+    */
+
+    /*
+        **Schedulers**
+
+        Everything that runs before the Subscriber runs,
+        is on an I/O thread. In the end, View manipulation
+        happens on the Main thread.
+
+        subscribeOn -> Tells Observable code, which thread to run on
+        observeOn -> Tells Subscriber, which thread to run on
+
+        !!Tip: subscribeOn & observeOn can be attached to any Observable
+        as they are just operators
+     */
+
+    public Observable<String> just() {
+        return Observable.just("Hello World")
+                .observeOn(AndroidSchedulers.mainThread())
+                .subscribeOn(Schedulers.io());
+    }
+
+    /*
+        **Error handling**
+
+        !!1. onError() is called if an Exception is thrown at any time
+
+        !!2. The operators don't have to handle the Exception
+
+        !!3. We know when the Subscriber has finished receiving items
+
+        !!4. Error handling is skipped by Observables and operators,
+        Subscribers handle errors.
+
+        !!5. Unchecked Exceptions are automatically forwarded to onError().
+
+        !!6. Even though RxJava has own system for handling errors,
+        checked Exceptions must be handled by developer code. E.g. Try - Catch block.
+    */
+
+    public Observable<String> article() {
+        Observable<String> name = mArticle.nameObservable();
+        mArticle.setName("Supercars");
+        return name.observeOn(AndroidSchedulers.mainThread())
+                .subscribeOn(Schedulers.io());
+    }
+
+    /*
+        **Observable.map() operator**
+
+        Takes in one value and outputs another value
+
+        Possible to chain as many map() calls as wanted together
+
+        !!Interesting: map() does not have to emit items of the
+        same type as the source Observable
+    */
+
+    public Observable<String> map() {
+        return Observable.just("This is map operator implementation")
+                .map(String::hashCode)
+                .map(i -> Integer.toString(i))
+                .observeOn(AndroidSchedulers.mainThread())
+                .subscribeOn(Schedulers.io());
+    }
+
+    /*
+        **Observable.flatMap() operator**
+
+        Takes items emitted by one Observable, transforms them into another Observable
+        Gives newly transformed (resulted) Observable to Subscriber
+
+        !!Tip 1: Observable.map() applies a function to
+        each item emitted by original Observable whereas,
+        Observable.flatMap() converts one Observable into another
+        and gives resultant Observable as output ->
+        Subscriber sees only resultant Observable
+
+        !!Tip 2: "map" transforms items emitted by an Observable
+        by applying a function to each item whereas "flatmap":
+
+        1. Applies a specified function to each emitted item
+        & this function in turn returns an Observable for each item.
+        2. flatMap then merges all these sequences to make a new sequence.
+    */
+
+    public Observable<List<Integer>> flatMapList() {
+        return Observable.just(getIntegersList())
+                .flatMap(i -> Observable.fromArray(i))
+                .observeOn(AndroidSchedulers.mainThread())
+                .subscribeOn(Schedulers.io());
+    }
+
+    public Observable<Integer> flatMapArray() {
+        return Observable.just(getIntegersArray())
+                .flatMap(i -> Observable.fromArray(i))
+                .observeOn(AndroidSchedulers.mainThread())
+                .subscribeOn(Schedulers.io());
+    }
+
+    /*
+        Observable<String> description = article.descriptionObservable();
+
+        We could explicitly call this method to get the description result,
+        but flatMap lets you call method directly with "article" object!
+        See above -> ¯\_(ツ)_/¯
+    */
+
+    /*
+        **Observable.filter() operator**
+
+        Emits only the items that pass a predicate test
+    */
+
+    /*
+        **Observable.take() operator**
+
+        Emits the number of items specified. If there are fewer than
+        specified count, it will stop early.
+    */
+
+    /*
+        **Observable.doOnNext() operator**
+
+        Allows us to add extra behaviour each time an item is emitted
+    */
+
+    public Observable<String> doOnNext(Consumer<String> onNext) {
+        return Observable.just(mArticle)
+                .flatMap(d -> mArticle.descriptionObservable())
+                .filter(d -> d != null)
+                .take(5)
+                .doOnNext(onNext)
+                .observeOn(AndroidSchedulers.mainThread())
+                .subscribeOn(Schedulers.io());
+    }
+
+    /*
+        **Observable.all() operator**
+
+        Determines whether all items meet some criteria
+
+        !!Tip: All of the Observable items must fulfill criteria
+    */
+
+    public Single<Boolean> all() {
+        return Observable.just(1, 2, 3, 4, 5, 6)
+                .all(i -> i > 0)
+                .observeOn(AndroidSchedulers.mainThread())
+                .subscribeOn(Schedulers.io());
+    }
+
+    /*
+        **Observable.from() operator**
+
+        Takes a collection of objects/items and emits each of them, one at a time
+
+        !!Tip: Similar to Observable.just() operator
+    */
+
+    public Observable<Integer> from() {
+        return Observable.fromArray(new Integer[]{1, 2, 3, 4, 5})
+                .observeOn(AndroidSchedulers.mainThread())
+                .subscribeOn(Schedulers.io());
+    }
+
+    /*
+        **Observable.zip() operator
+
+        Allows to combine multiple async calls together into a single call
+
+        When you need a signal that sends a value each time
+        any of its inputs change, use combineLatest.
+        When you need a signal that sends a value only when
+        all of its inputs change, use zip
+    */
+
+    public Observable<String> zip() {
+        return Observable.zip(mArticle.nameObservable(), mArticle.descriptionObservable(),
+                (names, desc) -> fi(names, desc));
+    }
+
+    /*
+        **Observable.repeat() operator**
+
+        Resubscribes when it receives onCompleted()
+    */
+
+    public Observable<String> repeat() {
+        return Observable.just("This is new data").repeat(5)
+                .observeOn(AndroidSchedulers.mainThread())
+                .subscribeOn(Schedulers.io());
+    }
+
+    /*
+        **Observable.retry() operator**
+
+        Resubscribes when it receives onError()
+    */
+
+    public Observable<String> retry() {
+        return Observable.just("This is error data").retry(3)
+                .observeOn(AndroidSchedulers.mainThread())
+                .subscribeOn(Schedulers.io());
+    }
+
+    /*
+        **Observable.fromCallable() operator**
+
+        Used for async calls. Code for emitted value
+        is not run until someone subscribes to the Observable.
+
+        !!Tip: fromCallable can handle checked exceptions.
+    */
+
+    public Observable<List<String>> fromCallable() {
+        Observable<List<String>> observable = Observable.fromCallable(mArticle::getArticles);
+        return observable.observeOn(AndroidSchedulers.mainThread())
+                .subscribeOn(Schedulers.io());
+    }
+
+    /*
+        **Observable.skip() operator**
+
+        Skips the first 'n' items emitted by Observable
+        and emits data after 'n' items
+    */
+
+    public Observable<Integer> skip() {
+        return Observable.just(getIntegersArray())
+                .flatMap(i -> Observable.fromArray(i))
+                .skip(2)
+                .observeOn(AndroidSchedulers.mainThread())
+                .subscribeOn(Schedulers.io());
+    }
+
+    /*
+        **Observable.skipLast() operator**
+
+        Skips 'n' number of elements starting from last position
+    */
+
+    public Observable<Integer> skipLast() {
+        return Observable.just(getIntegersArray())
+                .flatMap(i -> Observable.fromArray(i))
+                .skipLast(2)
+                .observeOn(AndroidSchedulers.mainThread())
+                .subscribeOn(Schedulers.io());
+    }
+
+    /*
+        **Observable.take() operator**
+
+        Emits first 'n' number of elements
+    */
+
+    public Observable<Integer> take() {
+        return Observable.just(getIntegersArray())
+                .flatMap(i -> Observable.fromArray(i))
+                .take(3)
+                .observeOn(AndroidSchedulers.mainThread())
+                .subscribeOn(Schedulers.io());
+    }
+
+    /*
+        **Observable.takeLast() operator**
+
+        Emits 'n' number of elements starting from last position
+    */
+
+    public Observable<Integer> takeLast() {
+        return Observable.just(getIntegersArray())
+                .flatMap(i -> Observable.fromArray(i))
+                .takeLast(3)
+                .observeOn(AndroidSchedulers.mainThread())
+                .subscribeOn(Schedulers.io());
+    }
+
+    /*
+        **Observable.concat() operator**
+
+        Concats multiple Observables and emits data stream
+        from Observables, one after another
+
+        !!Tip: Next Observables will start emitting only after
+        the previous Observable has finished emitting data
+    */
+
+    public Observable<String> concat() {
+        return Observable.concat(mArticle.nameObservable(), mArticle.descriptionObservable())
+                .observeOn(AndroidSchedulers.mainThread())
+                .subscribeOn(Schedulers.io());
+    }
+
+    /*
+        **Observable.merge() operator**
+
+        Merge multiple Observables and emits data stream
+        from Observables, interleaving the outputs
+
+        !!Tip: Merge does not wait for any Observable to
+        finish emitting data, it emits data from all the
+        specified Observables simultaneously as soon as
+        the data becomes available to emit.
+    */
+
+    public Observable<String> merge() {
+        return Observable.merge(mArticle.descriptionObservable(), mArticle.dateObservable())
+                .observeOn(AndroidSchedulers.mainThread())
+                .subscribeOn(Schedulers.io());
+    }
+
+    /*
+        **Observable.debounce() operator**
+
+        Emits items from an Observable if a particular
+        time span has passed without it emitting any
+        other item.
+    */
+
+    public Observable<List<String>> debounce() {
+        return debounce(mArticle.articlesObservable());
+    }
+
+    <T> Observable<T> debounce(Observable<T> source) {
+        return source
+                .debounce(4, TimeUnit.SECONDS)
+                .subscribeOn(AndroidSchedulers.mainThread())
+                .observeOn(Schedulers.io());
+    }
+
+    /*
+        **Observable.share() operator**
+
+        Allows multiple Subscribers to subscribe
+        to a single Observable. It avoids duplication
+        of expensive operation calls & promises
+        better, cheaper and faster resource utilization.
+    */
+
+    public void share(Observer<String> subscriber1, Observer<String> subscriber2) {
+        share(mArticle.descriptionObservable(), subscriber1, subscriber2);
+    }
+
+    <T> void share(Observable<T> source, Observer<T> subscriber1, Observer<T> subscriber2) {
+        Observable<T> shareObservable = source.share();
+
+        shareObservable.observeOn(AndroidSchedulers.mainThread())
+                .subscribeOn(Schedulers.io())
+                .subscribe(subscriber1);
+
+        shareObservable.take(5)
+                .observeOn(AndroidSchedulers.mainThread())
+                .subscribeOn(Schedulers.io())
+                .subscribe(subscriber2);
+    }
+
+    /*
+        **Observable.buffer() operator**
+
+        Periodically gather items emitted by an Observable
+        into bundles and emit these bundles rather than
+        emitting them at once.
+    */
+
+    public Observable<List<List<Integer>>> buffer() {
+        return Observable.just(getIntegersList(), getIntegersList(), getIntegersList())
+                .buffer(2, 2)
+                .observeOn(AndroidSchedulers.mainThread())
+                .subscribeOn(Schedulers.io());
+    }
+
+    /*
+        **Maybe Observable**
+
+        Maybe Observable succeeds with an item,
+        or no item, or errors.
+
+        !!Tip: Maybe emits at most one item.
+    */
+
+    public Maybe<List<Integer>> maybe() {
+        Maybe<List<Integer>> listMaybe = Maybe.create(e -> {
+            List<Integer> list = getIntegersList();
+            if (list != null && !list.isEmpty()) {
+                e.onSuccess(list);
+            } else {
+                e.onComplete();
+            }
+        });
+
+        return listMaybe.observeOn(AndroidSchedulers.mainThread())
+                .subscribeOn(Schedulers.io());
+    }
+
+    /*
+        **Single Observable**
+
+        Instead of  onCompleted(),
+                    onNext(),
+                    onError(),
+        it only gives
+                    onSuccess()
+                  & onError()
+    */
+
+    public Single<List<Integer>> single() {
+        Single<List<Integer>> listSingle = Single.fromCallable(this::getIntegersList);
+
+        return listSingle.observeOn(AndroidSchedulers.mainThread())
+                .subscribeOn(Schedulers.io());
+    }
+
+    /*
+        **Publish Subject**
+
+        PublishSubject emits to a Subscriber
+        only those item which are emitted by
+        the source Observables subsequent to
+        the time of the subscription.
+
+        !!Tip: Subscriber gets only the data
+        from the moment it subscribes.
+
+        *Example: Student enters late into the
+        classroom and listens from the point of
+        time he entered.
+    */
+
+    public void publishSubject(Observer<Integer> subscriber1, Observer<Integer> subscriber2) {
+        //Create new PublishSubject
+        PublishSubject<Integer> publishSubject = PublishSubject.create();
+
+        //Subscriber 1 subscribes to PublishSubject
+        publishSubject.subscribe(subscriber1);
+
+        //PublishSubject starts emitting data stream
+        publishSubject.onNext(1);
+        publishSubject.onNext(2);
+        publishSubject.onNext(3);
+
+        //Subscriber 2 subscribes to PublishSubject
+        publishSubject.subscribe(subscriber2);
+
+        //PublishSubject is still emitting data stream
+        publishSubject.onNext(4);
+        publishSubject.onNext(5);
+
+        //PublishSubject completes emitting data stream
+        publishSubject.onComplete();
+    }
+
+    /*
+        **Replay Subject**
+
+        ReplaySubject emits all the items of
+        the source Observable, regardless of
+        when the Subscriber subscribes
+
+        !!Tip: Subscriber gets all the data
+        regardless of the time it subscribes
+
+        *Example: Student enters late into the
+        classroom and listens from the beginning.
+    */
+
+    public void replaySubject(Observer<Integer> subscriber1, Observer<Integer> subscriber2,
+                              Observer<Integer> subscriber3) {
+        //Create new ReplaySubject
+        ReplaySubject<Integer> replaySubject = ReplaySubject.create();
+
+        //Subscriber 1 subscribes to ReplaySubject
+        replaySubject.subscribe(subscriber1);
+
+        //ReplaySubject starts emitting data stream
+        replaySubject.onNext(1);
+        replaySubject.onNext(2);
+        replaySubject.onNext(3);
+
+        //Subscriber 2 subscribes to ReplaySubject
+        replaySubject.subscribe(subscriber2);
+
+        //ReplaySubject is still emitting data stream
+        replaySubject.onNext(4);
+        replaySubject.onNext(5);
+
+        //ReplaySubject completes emitting data stream
+        replaySubject.onComplete();
+
+        //Subscriber 3 subscribes to ReplaySubject
+        replaySubject.subscribe(subscriber3);
+    }
+
+    /*
+        **Behaviour Subject**
+
+        BehaviourSubject emits the most recently
+        emitted item and all the subsequent items
+        of the source Observable, when a Subscriber
+        subscribes to it.
+
+        !!Tip: Subscriber gets most recent item emitted,
+        then all subsequent items emitted by Observable.
+
+        *Example: Student enters late into the classroom
+        and wants to listen to the most recent things
+        (not from the beginning) being taught by the
+        professor so that he gets the idea of the context.
+    */
+
+    public void behaviorSubject(Observer<Integer> subscriber1, Observer<Integer> subscriber2) {
+        //Create new BehaviourSubject
+        BehaviorSubject<Integer> behaviorSubject = BehaviorSubject.create();
+
+        //Subscriber 1 subscribes to BehaviourSubject
+        behaviorSubject.subscribe(subscriber1);
+
+        //BehaviourSubject starts emitting data stream
+        behaviorSubject.onNext(1);
+        behaviorSubject.onNext(2);
+        behaviorSubject.onNext(3);
+
+        //Subscriber 2 subscribes to BehaviourSubject
+        //Subscriber 2 will receive last item emitted
+        behaviorSubject.subscribe(subscriber2);
+
+        //BehaviourSubject is still emitting data stream
+        behaviorSubject.onNext(4);
+        behaviorSubject.onNext(5);
+
+        //BehaviourSubject completes emitting data stream
+        behaviorSubject.onComplete();
+    }
+
+    /*
+        **Async Subject**
+
+        AsyncSubject only emits last value of Observable,
+        "only after that source Observable completes".
+
+        !!Tip: No matter when the Subscriber subscribes,
+        it will only receive last emitted item, only after
+        Observable is completed emitting data stream.
+
+        *Example: Student enters at any point of time into
+        the classroom, but only wants to listen about the
+        last thing being taught, "after the class is over".
+    */
+
+    public void asyncSubject(Observer<Integer> subscriber1, Observer<Integer> subscriber2) {
+        //Create new AsyncSubject
+        AsyncSubject<Integer> asyncSubject = AsyncSubject.create();
+
+        //Subscriber 1 subscribes to AsyncSubject
+        //Subscriber 1 will only receive last item
+        asyncSubject.subscribe(subscriber1);
+
+        //AsyncSubject starts emitting data stream
+        asyncSubject.onNext(1);
+        asyncSubject.onNext(2);
+        asyncSubject.onNext(3);
+
+        //Subscriber 2 subscribes to AsyncSubject
+        //Subscriber 2 will only receive last item
+        asyncSubject.subscribe(subscriber2);
+
+        //AsyncSubject is still emitting data stream
+        asyncSubject.onNext(4);
+        asyncSubject.onNext(5);
+
+        //AsyncSubject completes emitting data stream
+        asyncSubject.onComplete();
+    }
+
+    private List<Integer> getIntegersList() {
+        List<Integer> integers = new ArrayList<>();
+        integers.add(1);
+        integers.add(20);
+        integers.add(300);
+        integers.add(4000);
+        integers.add(50000);
+        return integers;
+    }
+
+    private Integer[] getIntegersArray() {
+        return new Integer[]{100, 200, 300, 400, 500};
+    }
+
+    private String fi(String names, String desc) {
+        return String.valueOf(names + ", " + desc);
+    }
+}
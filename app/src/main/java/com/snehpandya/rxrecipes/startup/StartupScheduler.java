@@ -0,0 +1,351 @@
+package com.snehpandya.rxrecipes.startup;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.MessageQueue;
+import android.util.Log;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+import io.reactivex.disposables.CompositeDisposable;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.schedulers.Schedulers;
+
+/**
+ * Orders the pipelines assembled in Activity.onCreate() so that only the
+ * critical ones run before the first frame.
+ *
+ * CRITICAL tasks run synchronously in start(), IDLE tasks run one per
+ * main thread idle pass and BACKGROUND tasks run on Schedulers.io()
+ * once every task they depend on has run. A task has run as soon as it
+ * returns, i.e. once its pipeline is subscribed, not once that pipeline
+ * has emitted, so never depend on a task for the data it loads.
+ *
+ * A task may only depend on tasks registered before it with the same
+ * or a more urgent priority, which keeps the graph acyclic. A task only
+ * runs if every task it depends on ran without throwing; otherwise it
+ * is skipped, and so are its own dependents.
+ */
+public class StartupScheduler {
+
+    private static final String TAG = "StartupScheduler";
+
+    public enum Priority {
+        CRITICAL, IDLE, BACKGROUND
+    }
+
+    /**
+     * Returns the subscription to dispose together with the scheduler, or null.
+     */
+    public interface Task {
+        Disposable run() throws Exception;
+    }
+
+    public interface Listener {
+        /**
+         * Called once, after every task has either been run or skipped.
+         * Tasks only subscribe their pipelines, so this says nothing about
+         * when those pipelines emit.
+         *
+         * @param failed number of tasks that threw or were skipped because
+         *               a task they depend on threw
+         */
+        void onAllTasksDispatched(int failed);
+    }
+
+    /**
+     * Runs work whenever the main thread has nothing else to do.
+     */
+    interface IdleQueue {
+        /**
+         * Calls step on the next idle pass, and on later idle passes while
+         * it returns true. A new idle pass only starts after a message has
+         * been dispatched, see wakeUp().
+         */
+        void schedule(Step step);
+
+        /**
+         * Posts a no-op message so that the queue goes idle again even if
+         * nothing else is posted to the main thread.
+         */
+        void wakeUp();
+
+        void cancel();
+    }
+
+    interface Step {
+        boolean run();
+    }
+
+    private final Map<String, Entry> mEntries = new LinkedHashMap<>();
+    private final Queue<Entry> mIdleEntries = new ArrayDeque<>();
+    private final List<Entry> mPendingBackground = new ArrayList<>();
+    private final Set<String> mCompleted = new HashSet<>();
+    private final Set<String> mFailed = new HashSet<>();
+    private final CompositeDisposable mDisposables = new CompositeDisposable();
+    private final boolean mDeferralEnabled;
+    private final IdleQueue mIdleQueue;
+
+    private Listener mListener;
+    private boolean mStarted;
+    private boolean mDispatched;
+
+    /**
+     * @param deferralEnabled when false every task runs synchronously in
+     *                        start(), in registration order
+     */
+    public StartupScheduler(boolean deferralEnabled) {
+        this(deferralEnabled, new LooperIdleQueue());
+    }
+
+    StartupScheduler(boolean deferralEnabled, IdleQueue idleQueue) {
+        mDeferralEnabled = deferralEnabled;
+        mIdleQueue = idleQueue;
+    }
+
+    public StartupScheduler setListener(Listener listener) {
+        mListener = listener;
+        return this;
+    }
+
+    public StartupScheduler add(String name, Priority priority, Task task, String... dependsOn) {
+        if (mStarted) {
+            throw new IllegalStateException("Cannot add " + name + " after start()");
+        }
+        if (mEntries.containsKey(name)) {
+            throw new IllegalArgumentException("Duplicate startup task: " + name);
+        }
+        for (String dependency : dependsOn) {
+            Entry parent = mEntries.get(dependency);
+            if (parent == null) {
+                throw new IllegalArgumentException(name + " depends on unknown task " + dependency);
+            }
+            if (parent.priority.compareTo(priority) > 0) {
+                throw new IllegalArgumentException(name + " (" + priority + ") cannot depend on "
+                        + dependency + " (" + parent.priority + ")");
+            }
+        }
+        mEntries.put(name, new Entry(name, priority, task, Arrays.asList(dependsOn)));
+        return this;
+    }
+
+    /**
+     * Must be called on the main thread.
+     */
+    public void start() {
+        if (mStarted) {
+            throw new IllegalStateException("start() called twice");
+        }
+        mStarted = true;
+
+        if (!mDeferralEnabled) {
+            for (Entry entry : mEntries.values()) {
+                execute(entry);
+            }
+            return;
+        }
+
+        for (Entry entry : mEntries.values()) {
+            switch (entry.priority) {
+                case CRITICAL:
+                    execute(entry);
+                    break;
+                case IDLE:
+                    synchronized (this) {
+                        if (!mFailed.contains(entry.name)) {
+                            mIdleEntries.add(entry);
+                        }
+                    }
+                    break;
+                case BACKGROUND:
+                    synchronized (this) {
+                        if (!mFailed.contains(entry.name)) {
+                            mPendingBackground.add(entry);
+                        }
+                    }
+                    break;
+            }
+        }
+
+        synchronized (this) {
+            if (!mIdleEntries.isEmpty()) {
+                mIdleQueue.schedule(this::runNextIdle);
+            }
+        }
+        dispatchBackground();
+    }
+
+    /**
+     * Stops any deferred task that has not run yet and disposes
+     * every subscription created by the tasks that did.
+     */
+    public void dispose() {
+        mDisposables.dispose();
+        mIdleQueue.cancel();
+        synchronized (this) {
+            mIdleEntries.clear();
+            mPendingBackground.clear();
+        }
+    }
+
+    private boolean runNextIdle() {
+        Entry entry;
+        synchronized (this) {
+            entry = mIdleEntries.poll();
+        }
+        if (entry != null) {
+            execute(entry);
+        }
+        boolean more;
+        synchronized (this) {
+            more = !mDisposables.isDisposed() && !mIdleEntries.isEmpty();
+        }
+        if (more) {
+            // Synchronous tasks post nothing to the main thread, so without
+            // this the Looper could sleep before the next idle pass
+            mIdleQueue.wakeUp();
+        }
+        return more;
+    }
+
+    private void execute(Entry entry) {
+        if (mDisposables.isDisposed()) {
+            return;
+        }
+        boolean ready;
+        synchronized (this) {
+            if (mFailed.contains(entry.name)) {
+                return;
+            }
+            ready = mCompleted.containsAll(entry.dependsOn);
+            if (!ready) {
+                Log.e(TAG, "execute: skipping " + entry.name + ", dependencies did not complete");
+                onFailed(entry);
+            }
+        }
+        if (!ready) {
+            checkDispatched();
+            return;
+        }
+        try {
+            Disposable disposable = entry.task.run();
+            if (disposable != null) {
+                mDisposables.add(disposable);
+            }
+        } catch (Exception e) {
+            Log.e(TAG, "execute: " + entry.name + " failed", e);
+            synchronized (this) {
+                onFailed(entry);
+            }
+            checkDispatched();
+            return;
+        }
+        synchronized (this) {
+            mCompleted.add(entry.name);
+        }
+        dispatchBackground();
+        checkDispatched();
+    }
+
+    /**
+     * Marks entry and, transitively, every task that depends on it as failed,
+     * and drops them from the idle and background queues.
+     * Entries are in registration order, so one pass reaches every dependent.
+     */
+    private void onFailed(Entry failed) {
+        mFailed.add(failed.name);
+        for (Entry entry : mEntries.values()) {
+            if (!mFailed.contains(entry.name) && !mCompleted.contains(entry.name)
+                    && !Collections.disjoint(entry.dependsOn, mFailed)) {
+                Log.e(TAG, "onFailed: skipping " + entry.name + ", depends on failed task");
+                mFailed.add(entry.name);
+                mIdleEntries.remove(entry);
+                mPendingBackground.remove(entry);
+            }
+        }
+    }
+
+    private void checkDispatched() {
+        int failed;
+        synchronized (this) {
+            if (mDispatched || mCompleted.size() + mFailed.size() < mEntries.size()) {
+                return;
+            }
+            mDispatched = true;
+            failed = mFailed.size();
+        }
+        if (mListener != null) {
+            mListener.onAllTasksDispatched(failed);
+        }
+    }
+
+    private void dispatchBackground() {
+        List<Entry> ready = new ArrayList<>();
+        synchronized (this) {
+            Iterator<Entry> iterator = mPendingBackground.iterator();
+            while (iterator.hasNext()) {
+                Entry entry = iterator.next();
+                if (mCompleted.containsAll(entry.dependsOn)) {
+                    iterator.remove();
+                    ready.add(entry);
+                }
+            }
+        }
+        for (Entry entry : ready) {
+            Schedulers.io().scheduleDirect(() -> execute(entry));
+        }
+    }
+
+    private static final class LooperIdleQueue implements IdleQueue {
+
+        private static final Runnable NO_OP = () -> {
+        };
+
+        private final Handler mHandler = new Handler(Looper.myLooper());
+        private MessageQueue.IdleHandler mIdleHandler;
+
+        @Override
+        public void schedule(Step step) {
+            mIdleHandler = step::run;
+            Looper.myQueue().addIdleHandler(mIdleHandler);
+        }
+
+        @Override
+        public void wakeUp() {
+            mHandler.post(NO_OP);
+        }
+
+        @Override
+        public void cancel() {
+            mHandler.removeCallbacks(NO_OP);
+            if (mIdleHandler != null) {
+                Looper.myQueue().removeIdleHandler(mIdleHandler);
+                mIdleHandler = null;
+            }
+        }
+    }
+
+    private static final class Entry {
+        final String name;
+        final Priority priority;
+        final Task task;
+        final List<String> dependsOn;
+
+        Entry(String name, Priority priority, Task task, List<String> dependsOn) {
+            this.name = name;
+            this.priority = priority;
+            this.task = task;
+            this.dependsOn = dependsOn;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.snehpandya.rxrecipes.startup;
+
+import android.app.Activity;
+import android.os.SystemClock;
+import android.util.Log;
+import android.view.View;
+import android.view.ViewTreeObserver;
+
+/**
+ * Measures how long an Activity takes from onCreate() to its first frame,
+ * and how long until every deferred startup task has been dispatched,
+ * i.e. has subscribed its pipeline, failed or been skipped.
+ *
+ * Compare both modes with:
+ * adb shell am start -W -n com.snehpandya.rxrecipes/.MainActivity --ez defer_startup true|false
+ * adb logcat -s StartupTracer
+ */
+public class StartupTracer implements StartupScheduler.Listener {
+
+    private static final String TAG = "StartupTracer";
+
+    private final long mStartMillis;
+    private final boolean mDeferralEnabled;
+
+    private StartupTracer(boolean deferralEnabled) {
+        mStartMillis = SystemClock.uptimeMillis();
+        mDeferralEnabled = deferralEnabled;
+    }
+
+    /**
+     * Call as the first statement of onCreate().
+     */
+    public static StartupTracer begin(boolean deferralEnabled) {
+        return new StartupTracer(deferralEnabled);
+    }
+
+    /**
+     * Reports the time to the first pre-draw pass of the Activity's
+     * window, which is when its first frame is about to be drawn.
+     */
+    public void traceFirstFrame(Activity activity) {
+        View decorView = activity.getWindow().getDecorView();
+        decorView.getViewTreeObserver().addOnPreDrawListener(new ViewTreeObserver.OnPreDrawListener() {
+            @Override
+            public boolean onPreDraw() {
+                decorView.getViewTreeObserver().removeOnPreDrawListener(this);
+                Log.d(TAG, "traceFirstFrame: deferral " + mDeferralEnabled
+                        + ": time to first frame: " + elapsedMillis() + " ms");
+                return true;
+            }
+        });
+    }
+
+    @Override
+    public void onAllTasksDispatched(int failed) {
+        Log.d(TAG, "onAllTasksDispatched: deferral " + mDeferralEnabled
+                + ": all startup tasks dispatched after " + elapsedMillis() + " ms, "
+                + failed + " failed or skipped");
+    }
+
+    private long elapsedMillis() {
+        return SystemClock.uptimeMillis() - mStartMillis;
+    }
+}
@@ -0,0 +1,44 @@
+package com.snehpandya.rxrecipes;
+
+import org.junit.rules.TestRule;
+import org.junit.runner.Description;
+import org.junit.runners.model.Statement;
+
+import io.reactivex.android.plugins.RxAndroidPlugins;
+import io.reactivex.plugins.RxJavaPlugins;
+import io.reactivex.schedulers.TestScheduler;
+
+/**
+ * Replaces every RxJava and RxAndroid scheduler with a single TestScheduler,
+ * so work posted to Schedulers.io() or AndroidSchedulers.mainThread() only
+ * runs when the test triggers it and time only moves when the test advances it.
+ */
+public class RxSchedulerRule implements TestRule {
+
+    private final TestScheduler mScheduler = new TestScheduler();
+
+    public TestScheduler getScheduler() {
+        return mScheduler;
+    }
+
+    @Override
+    public Statement apply(Statement base, Description description) {
+        return new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                RxAndroidPlugins.setInitMainThreadSchedulerHandler(s -> mScheduler);
+                RxAndroidPlugins.setMainThreadSchedulerHandler(s -> mScheduler);
+                RxJavaPlugins.setIoSchedulerHandler(s -> mScheduler);
+                RxJavaPlugins.setComputationSchedulerHandler(s -> mScheduler);
+                RxJavaPlugins.setNewThreadSchedulerHandler(s -> mScheduler);
+                RxJavaPlugins.setSingleSchedulerHandler(s -> mScheduler);
+                try {
+                    base.evaluate();
+                } finally {
+                    RxJavaPlugins.reset();
+                    RxAndroidPlugins.reset();
+                }
+            }
+        };
+    }
+}
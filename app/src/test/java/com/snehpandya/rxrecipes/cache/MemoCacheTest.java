@@ -0,0 +1,174 @@
+package com.snehpandya.rxrecipes.cache;
+
+import com.snehpandya.rxrecipes.RxSchedulerRule;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.reactivex.Single;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.schedulers.TestScheduler;
+
+import static org.junit.Assert.*;
+
+public class MemoCacheTest {
+
+    @Rule
+    public final RxSchedulerRule mRxSchedulerRule = new RxSchedulerRule();
+
+    private TestScheduler mScheduler;
+    private MemoCache<String, String> mCache;
+    private AtomicInteger mCalls;
+
+    @Before
+    public void setUp() throws Exception {
+        mScheduler = mRxSchedulerRule.getScheduler();
+        mCache = new MemoCache<>(2);
+        mCalls = new AtomicInteger();
+    }
+
+    @Test
+    public void get_doesNotRunSourceUntilSubscribed() throws Exception {
+        mCache.get("key", load("value"));
+
+        assertEquals(0, mCalls.get());
+        assertEquals(0, mCache.size());
+    }
+
+    @Test
+    public void get_runsSourceOnceForConcurrentSubscribers() throws Exception {
+        Single<String> source = load("value").delay(3, TimeUnit.SECONDS);
+        TestObserver<String> first = mCache.get("key", source).test();
+        TestObserver<String> second = mCache.get("key", source).test();
+
+        mScheduler.advanceTimeBy(2, TimeUnit.SECONDS);
+        first.assertNoValues();
+        second.assertNoValues();
+
+        mScheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        first.assertResult("value");
+        second.assertResult("value");
+        assertEquals(1, mCalls.get());
+    }
+
+    @Test
+    public void get_replaysResultToLateSubscriber() throws Exception {
+        mCache.get("key", load("value")).test().assertResult("value");
+
+        mCache.get("key", load("other")).test().assertResult("value");
+        assertEquals(1, mCalls.get());
+    }
+
+    @Test
+    public void get_keepsSourceRunningWhenSubscriberDisposes() throws Exception {
+        Single<String> source = load("value").delay(3, TimeUnit.SECONDS);
+        mCache.get("key", source).test().dispose();
+
+        mScheduler.advanceTimeBy(3, TimeUnit.SECONDS);
+
+        mCache.get("key", source).test().assertResult("value");
+        assertEquals(1, mCalls.get());
+    }
+
+    @Test
+    public void get_doesNotCacheFailure() throws Exception {
+        Single<String> failing = Single.fromCallable(() -> {
+            mCalls.incrementAndGet();
+            throw new IOException("offline");
+        });
+        mCache.get("key", failing).test().assertError(IOException.class);
+        assertEquals(0, mCache.size());
+
+        mCache.get("key", load("value")).test().assertResult("value");
+        assertEquals(2, mCalls.get());
+    }
+
+    @Test
+    public void get_evictsLeastRecentlyUsedKey() throws Exception {
+        mCache.get("a", load("a")).test();
+        mCache.get("b", load("b")).test();
+        mCache.get("a", load("a")).test();
+        mCache.get("c", load("c")).test();
+        assertEquals(2, mCache.size());
+        assertEquals(3, mCalls.get());
+
+        mCache.get("a", load("a")).test().assertResult("a");
+        assertEquals(3, mCalls.get());
+
+        mCache.get("b", load("b")).test().assertResult("b");
+        assertEquals(4, mCalls.get());
+    }
+
+    @Test
+    public void invalidate_runsSourceAgain() throws Exception {
+        mCache.get("key", load("value")).test();
+        mCache.invalidate("key");
+
+        mCache.get("key", load("fresh")).test().assertResult("fresh");
+        assertEquals(2, mCalls.get());
+    }
+
+    @Test
+    public void invalidate_whileObservedKeepsLoadRunningAndStartsAnother() throws Exception {
+        Single<String> source = load("value").delay(3, TimeUnit.SECONDS);
+        TestObserver<String> first = mCache.get("key", source).test();
+        mCache.invalidate("key");
+        TestObserver<String> second = mCache.get("key", source).test();
+
+        mScheduler.advanceTimeBy(3, TimeUnit.SECONDS);
+
+        first.assertResult("value");
+        second.assertResult("value");
+        assertEquals(2, mCalls.get());
+    }
+
+    @Test
+    public void invalidate_cancelsLoadNobodyIsWaitingFor() throws Exception {
+        mCache.get("key", timedLoad("value")).test().dispose();
+        mCache.invalidate("key");
+
+        mScheduler.advanceTimeBy(3, TimeUnit.SECONDS);
+        assertEquals(0, mCalls.get());
+
+        TestObserver<String> observer = mCache.get("key", timedLoad("fresh")).test();
+        mScheduler.advanceTimeBy(3, TimeUnit.SECONDS);
+        observer.assertResult("fresh");
+        assertEquals(1, mCalls.get());
+    }
+
+    @Test
+    public void get_evictionCancelsLoadNobodyIsWaitingFor() throws Exception {
+        mCache.get("a", timedLoad("a")).test().dispose();
+        TestObserver<String> b = mCache.get("b", timedLoad("b")).test();
+        TestObserver<String> c = mCache.get("c", timedLoad("c")).test();
+
+        mScheduler.advanceTimeBy(3, TimeUnit.SECONDS);
+
+        b.assertResult("b");
+        c.assertResult("c");
+        assertEquals(2, mCalls.get());
+    }
+
+    private Single<String> load(String value) {
+        return Single.fromCallable(() -> {
+            mCalls.incrementAndGet();
+            return value;
+        });
+    }
+
+    /**
+     * Only counts a call once the 3 second load completes, so a cancelled load is not counted.
+     */
+    private Single<String> timedLoad(String value) {
+        return Single.timer(3, TimeUnit.SECONDS)
+                .map(t -> {
+                    mCalls.incrementAndGet();
+                    return value;
+                });
+    }
+}
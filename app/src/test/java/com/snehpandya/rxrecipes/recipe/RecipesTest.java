@@ -0,0 +1,335 @@
+package com.snehpandya.rxrecipes.recipe;
+
+import com.snehpandya.rxrecipes.RxSchedulerRule;
+import com.snehpandya.rxrecipes.cache.MemoCache;
+import com.snehpandya.rxrecipes.model.Article;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.reactivex.Observable;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.schedulers.Schedulers;
+import io.reactivex.schedulers.TestScheduler;
+import io.reactivex.subjects.PublishSubject;
+
+import static org.junit.Assert.*;
+
+/**
+ * Runs every recipe against a TestScheduler, so no test touches a real thread or clock.
+ *
+ * SystemClock.sleep() in Article.getArticles() returns immediately here only
+ * because app/build.gradle sets unitTests.returnDefaultValues = true.
+ */
+public class RecipesTest {
+
+    private static final List<String> DESCRIPTIONS = Arrays.asList("This is article description",
+            "Description is here", "New item", "Great ideas", "Latest technology", "Tagged places", "Celebrities");
+    private static final List<Integer> INTEGERS = Arrays.asList(1, 20, 300, 4000, 50000);
+
+    @Rule
+    public final RxSchedulerRule mRxSchedulerRule = new RxSchedulerRule();
+
+    private TestScheduler mScheduler;
+    private Recipes mRecipes;
+
+    @Before
+    public void setUp() throws Exception {
+        mScheduler = mRxSchedulerRule.getScheduler();
+        mRecipes = new Recipes(new Article(new MemoCache<>(1)));
+    }
+
+    @Test
+    public void just_emitsOnlyOnceSchedulerRuns() throws Exception {
+        TestObserver<String> observer = mRecipes.just().test();
+        observer.assertNoValues();
+
+        mScheduler.triggerActions();
+
+        observer.assertResult("Hello World");
+    }
+
+    @Test
+    public void article_emitsNameSetAfterAssembly() throws Exception {
+        TestObserver<String> observer = mRecipes.article().test();
+        mScheduler.triggerActions();
+
+        observer.assertResult("Supercars");
+    }
+
+    @Test
+    public void map_emitsHashCodeAsString() throws Exception {
+        TestObserver<String> observer = mRecipes.map().test();
+        mScheduler.triggerActions();
+
+        observer.assertResult(Integer.toString("This is map operator implementation".hashCode()));
+    }
+
+    @Test
+    public void flatMapList_emitsWholeList() throws Exception {
+        TestObserver<List<Integer>> observer = mRecipes.flatMapList().test();
+        mScheduler.triggerActions();
+
+        observer.assertValue(INTEGERS).assertComplete();
+    }
+
+    @Test
+    public void flatMapArray_emitsEachItemInOrder() throws Exception {
+        TestObserver<Integer> observer = mRecipes.flatMapArray().test();
+        mScheduler.triggerActions();
+
+        observer.assertResult(100, 200, 300, 400, 500);
+    }
+
+    @Test
+    public void doOnNext_seesEveryItemBeforeSubscriber() throws Exception {
+        List<String> seen = new ArrayList<>();
+        TestObserver<String> observer = mRecipes.doOnNext(seen::add).test();
+        mScheduler.triggerActions();
+
+        observer.assertValueSequence(DESCRIPTIONS.subList(0, 5)).assertComplete();
+        assertEquals(DESCRIPTIONS.subList(0, 5), seen);
+    }
+
+    @Test
+    public void all_isTrueForPositiveItems() throws Exception {
+        TestObserver<Boolean> observer = mRecipes.all().test();
+        mScheduler.triggerActions();
+
+        observer.assertResult(true);
+    }
+
+    @Test
+    public void from_emitsEachItemInOrder() throws Exception {
+        TestObserver<Integer> observer = mRecipes.from().test();
+        mScheduler.triggerActions();
+
+        observer.assertResult(1, 2, 3, 4, 5);
+    }
+
+    @Test
+    public void zip_pairsNameWithFirstDescription() throws Exception {
+        mRecipes.article();
+        TestObserver<String> observer = mRecipes.zip().test();
+        mScheduler.triggerActions();
+
+        observer.assertResult("Supercars, This is article description");
+    }
+
+    @Test
+    public void repeat_emitsFiveTimes() throws Exception {
+        TestObserver<String> observer = mRecipes.repeat().test();
+        mScheduler.triggerActions();
+
+        observer.assertValueCount(5).assertComplete();
+    }
+
+    @Test
+    public void retry_emitsOnceWithoutError() throws Exception {
+        TestObserver<String> observer = mRecipes.retry().test();
+        mScheduler.triggerActions();
+
+        observer.assertResult("This is error data");
+    }
+
+    @Test
+    public void fromCallable_loadsArticlesForEachSubscriber() throws Exception {
+        Observable<List<String>> recipe = mRecipes.fromCallable();
+        TestObserver<List<String>> first = recipe.test();
+        TestObserver<List<String>> second = recipe.test();
+        first.assertNoValues();
+        mScheduler.triggerActions();
+
+        first.assertValueCount(1).assertComplete();
+        second.assertValueCount(1).assertComplete();
+        assertEquals(10, first.values().get(0).size());
+        assertEquals("Article 0", first.values().get(0).get(0));
+        assertNotSame(first.values().get(0), second.values().get(0));
+    }
+
+    @Test
+    public void skip_dropsFirstTwo() throws Exception {
+        TestObserver<Integer> observer = mRecipes.skip().test();
+        mScheduler.triggerActions();
+
+        observer.assertResult(300, 400, 500);
+    }
+
+    @Test
+    public void skipLast_dropsLastTwo() throws Exception {
+        TestObserver<Integer> observer = mRecipes.skipLast().test();
+        mScheduler.triggerActions();
+
+        observer.assertResult(100, 200, 300);
+    }
+
+    @Test
+    public void take_keepsFirstThree() throws Exception {
+        TestObserver<Integer> observer = mRecipes.take().test();
+        mScheduler.triggerActions();
+
+        observer.assertResult(100, 200, 300);
+    }
+
+    @Test
+    public void takeLast_keepsLastThree() throws Exception {
+        TestObserver<Integer> observer = mRecipes.takeLast().test();
+        mScheduler.triggerActions();
+
+        observer.assertResult(300, 400, 500);
+    }
+
+    @Test
+    public void concat_emitsNameBeforeDescriptions() throws Exception {
+        mRecipes.article();
+        TestObserver<String> observer = mRecipes.concat().test();
+        mScheduler.triggerActions();
+
+        List<String> expected = new ArrayList<>();
+        expected.add("Supercars");
+        expected.addAll(DESCRIPTIONS);
+        observer.assertValueSequence(expected).assertComplete();
+    }
+
+    @Test
+    public void merge_emitsEveryItemOfBothSources() throws Exception {
+        TestObserver<String> observer = mRecipes.merge().test();
+        mScheduler.triggerActions();
+
+        observer.assertValueCount(11).assertComplete();
+        assertTrue(observer.values().containsAll(DESCRIPTIONS));
+        assertTrue(observer.values().containsAll(Arrays.asList("July 10", "August 20", "May 22", "February 28")));
+    }
+
+    @Test
+    public void debounce_emitsArticlesOnCompletionWithoutWaiting() throws Exception {
+        TestObserver<List<String>> observer = mRecipes.debounce().test();
+        mScheduler.triggerActions();
+
+        observer.assertValueCount(1).assertComplete();
+        try {
+            observer.values().get(0).clear();
+            fail("Cached articles must be unmodifiable");
+        } catch (UnsupportedOperationException expected) {
+            // Shared with every later subscriber
+        }
+    }
+
+    @Test
+    public void debounce_dropsItemsFollowedWithinFourSeconds() throws Exception {
+        PublishSubject<String> source = PublishSubject.create();
+        TestObserver<String> observer = mRecipes.debounce(source).test();
+        mScheduler.triggerActions();
+
+        source.onNext("a");
+        mScheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        source.onNext("b");
+        mScheduler.advanceTimeBy(3, TimeUnit.SECONDS);
+        observer.assertNoValues();
+
+        mScheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        observer.assertValues("b");
+
+        source.onNext("c");
+        mScheduler.advanceTimeBy(2, TimeUnit.SECONDS);
+        source.onNext("d");
+        mScheduler.advanceTimeBy(4, TimeUnit.SECONDS);
+        observer.assertValues("b", "d");
+
+        source.onNext("e");
+        source.onComplete();
+        mScheduler.triggerActions();
+        observer.assertResult("b", "d", "e");
+    }
+
+    @Test
+    public void share_subscribesToSourceOnceForBothSubscribers() throws Exception {
+        AtomicInteger subscriptions = new AtomicInteger();
+        Observable<String> source = Observable.fromIterable(DESCRIPTIONS)
+                .doOnSubscribe(d -> subscriptions.incrementAndGet())
+                .subscribeOn(Schedulers.io());
+        TestObserver<String> subscriber1 = new TestObserver<>();
+        TestObserver<String> subscriber2 = new TestObserver<>();
+        mRecipes.share(source, subscriber1, subscriber2);
+        mScheduler.triggerActions();
+
+        assertEquals(1, subscriptions.get());
+        subscriber1.assertValueSequence(DESCRIPTIONS).assertComplete();
+        subscriber2.assertValueSequence(DESCRIPTIONS.subList(0, 5)).assertComplete();
+    }
+
+    @Test
+    public void buffer_groupsListsInPairs() throws Exception {
+        TestObserver<List<List<Integer>>> observer = mRecipes.buffer().test();
+        mScheduler.triggerActions();
+
+        observer.assertValueSequence(Arrays.asList(Collections.nCopies(2, INTEGERS),
+                Collections.singletonList(INTEGERS))).assertComplete();
+    }
+
+    @Test
+    public void maybe_succeedsWithList() throws Exception {
+        TestObserver<List<Integer>> observer = mRecipes.maybe().test();
+        mScheduler.triggerActions();
+
+        observer.assertValue(INTEGERS).assertComplete();
+    }
+
+    @Test
+    public void single_succeedsWithList() throws Exception {
+        TestObserver<List<Integer>> observer = mRecipes.single().test();
+        mScheduler.triggerActions();
+
+        observer.assertValue(INTEGERS).assertComplete();
+    }
+
+    @Test
+    public void publishSubject_lateSubscriberMissesEarlierItems() throws Exception {
+        TestObserver<Integer> subscriber1 = new TestObserver<>();
+        TestObserver<Integer> subscriber2 = new TestObserver<>();
+        mRecipes.publishSubject(subscriber1, subscriber2);
+
+        subscriber1.assertResult(1, 2, 3, 4, 5);
+        subscriber2.assertResult(4, 5);
+    }
+
+    @Test
+    public void replaySubject_everySubscriberGetsEveryItem() throws Exception {
+        TestObserver<Integer> subscriber1 = new TestObserver<>();
+        TestObserver<Integer> subscriber2 = new TestObserver<>();
+        TestObserver<Integer> subscriber3 = new TestObserver<>();
+        mRecipes.replaySubject(subscriber1, subscriber2, subscriber3);
+
+        subscriber1.assertResult(1, 2, 3, 4, 5);
+        subscriber2.assertResult(1, 2, 3, 4, 5);
+        subscriber3.assertResult(1, 2, 3, 4, 5);
+    }
+
+    @Test
+    public void behaviorSubject_lateSubscriberGetsMostRecentItem() throws Exception {
+        TestObserver<Integer> subscriber1 = new TestObserver<>();
+        TestObserver<Integer> subscriber2 = new TestObserver<>();
+        mRecipes.behaviorSubject(subscriber1, subscriber2);
+
+        subscriber1.assertResult(1, 2, 3, 4, 5);
+        subscriber2.assertResult(3, 4, 5);
+    }
+
+    @Test
+    public void asyncSubject_everySubscriberGetsOnlyLastItem() throws Exception {
+        TestObserver<Integer> subscriber1 = new TestObserver<>();
+        TestObserver<Integer> subscriber2 = new TestObserver<>();
+        mRecipes.asyncSubject(subscriber1, subscriber2);
+
+        subscriber1.assertResult(5);
+        subscriber2.assertResult(5);
+    }
+}
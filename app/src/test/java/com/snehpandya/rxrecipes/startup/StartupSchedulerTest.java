@@ -0,0 +1,222 @@
+package com.snehpandya.rxrecipes.startup;
+
+import com.snehpandya.rxrecipes.RxSchedulerRule;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import io.reactivex.disposables.Disposable;
+import io.reactivex.disposables.Disposables;
+import io.reactivex.schedulers.TestScheduler;
+
+import static com.snehpandya.rxrecipes.startup.StartupScheduler.Priority.BACKGROUND;
+import static com.snehpandya.rxrecipes.startup.StartupScheduler.Priority.CRITICAL;
+import static com.snehpandya.rxrecipes.startup.StartupScheduler.Priority.IDLE;
+import static org.junit.Assert.*;
+
+/**
+ * Runs idle tasks through a FakeIdleQueue that behaves like an Android
+ * MessageQueue, and background tasks on the TestScheduler installed by
+ * RxSchedulerRule.
+ */
+public class StartupSchedulerTest {
+
+    @Rule
+    public final RxSchedulerRule mRxSchedulerRule = new RxSchedulerRule();
+
+    private TestScheduler mScheduler;
+    private FakeIdleQueue mIdleQueue;
+    private List<String> mRan;
+    private List<Integer> mDispatched;
+
+    @Before
+    public void setUp() throws Exception {
+        mScheduler = mRxSchedulerRule.getScheduler();
+        mIdleQueue = new FakeIdleQueue();
+        mRan = Collections.synchronizedList(new ArrayList<>());
+        mDispatched = new ArrayList<>();
+    }
+
+    @Test
+    public void start_runsTasksAfterTheirDependencies() throws Exception {
+        StartupScheduler scheduler = newScheduler(true)
+                .add("critical", CRITICAL, record("critical"))
+                .add("idle", IDLE, record("idle"), "critical")
+                .add("background", BACKGROUND, record("background"), "idle");
+
+        scheduler.start();
+        mScheduler.triggerActions();
+        assertEquals(Collections.singletonList("critical"), mRan);
+
+        mIdleQueue.runUntilAsleep();
+        assertEquals(Arrays.asList("critical", "idle"), mRan);
+
+        mScheduler.triggerActions();
+        assertEquals(Arrays.asList("critical", "idle", "background"), mRan);
+    }
+
+    @Test
+    public void start_skipsDependentsOfFailedTask() throws Exception {
+        StartupScheduler scheduler = newScheduler(true)
+                .add("article", CRITICAL, fail())
+                .add("zip", IDLE, record("zip"), "article")
+                .add("concat", IDLE, record("concat"), "zip")
+                .add("map", IDLE, record("map"))
+                .add("debounce", BACKGROUND, record("debounce"), "concat");
+
+        scheduler.start();
+        mIdleQueue.runUntilAsleep();
+        mScheduler.triggerActions();
+
+        assertEquals(Collections.singletonList("map"), mRan);
+        assertEquals(Collections.singletonList(4), mDispatched);
+    }
+
+    @Test
+    public void start_skipsDependentsOfFailedTaskWithoutDeferral() throws Exception {
+        StartupScheduler scheduler = newScheduler(false)
+                .add("article", CRITICAL, fail())
+                .add("zip", IDLE, record("zip"), "article")
+                .add("map", IDLE, record("map"));
+
+        scheduler.start();
+
+        assertEquals(Collections.singletonList("map"), mRan);
+        assertEquals(Collections.singletonList(2), mDispatched);
+        assertFalse(mIdleQueue.isScheduled());
+    }
+
+    @Test
+    public void dispose_stopsDeferredTasksAndDisposesSubscriptions() throws Exception {
+        Disposable subscription = Disposables.empty();
+        StartupScheduler scheduler = newScheduler(true)
+                .add("critical", CRITICAL, () -> {
+                    mRan.add("critical");
+                    return subscription;
+                })
+                .add("idle", IDLE, record("idle"))
+                .add("background", BACKGROUND, record("background"));
+
+        scheduler.start();
+        scheduler.dispose();
+        mIdleQueue.runUntilAsleep();
+        mScheduler.triggerActions();
+
+        assertEquals(Collections.singletonList("critical"), mRan);
+        assertTrue(subscription.isDisposed());
+        assertTrue(mIdleQueue.isCancelled());
+        assertTrue(mDispatched.isEmpty());
+    }
+
+    @Test
+    public void listener_firesOnceAfterEveryTaskIsDispatched() throws Exception {
+        StartupScheduler scheduler = newScheduler(true)
+                .add("critical", CRITICAL, record("critical"))
+                .add("idle1", IDLE, record("idle1"))
+                .add("idle2", IDLE, record("idle2"))
+                .add("background", BACKGROUND, record("background"));
+
+        scheduler.start();
+        mIdleQueue.runUntilAsleep();
+        assertTrue(mDispatched.isEmpty());
+
+        mScheduler.triggerActions();
+        assertEquals(Collections.singletonList(0), mDispatched);
+    }
+
+    @Test
+    public void start_runsSynchronousIdleTasksWithoutOtherMessages() throws Exception {
+        StartupScheduler scheduler = newScheduler(true)
+                .add("publishSubject", IDLE, record("publishSubject"))
+                .add("replaySubject", IDLE, record("replaySubject"))
+                .add("behaviorSubject", IDLE, record("behaviorSubject"))
+                .add("asyncSubject", IDLE, record("asyncSubject"));
+
+        scheduler.start();
+        mIdleQueue.runUntilAsleep();
+
+        assertEquals(Arrays.asList("publishSubject", "replaySubject", "behaviorSubject", "asyncSubject"), mRan);
+        assertEquals(Collections.singletonList(0), mDispatched);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void add_rejectsDependencyOnLessUrgentTask() throws Exception {
+        newScheduler(true)
+                .add("idle", IDLE, record("idle"))
+                .add("critical", CRITICAL, record("critical"), "idle");
+    }
+
+    private StartupScheduler newScheduler(boolean deferralEnabled) {
+        return new StartupScheduler(deferralEnabled, mIdleQueue)
+                .setListener(failed -> mDispatched.add(failed));
+    }
+
+    private StartupScheduler.Task record(String name) {
+        return () -> {
+            mRan.add(name);
+            return null;
+        };
+    }
+
+    private StartupScheduler.Task fail() {
+        return () -> {
+            throw new IllegalStateException("failed");
+        };
+    }
+
+    private static final class FakeIdleQueue implements StartupScheduler.IdleQueue {
+
+        private StartupScheduler.Step mStep;
+        private int mMessages;
+        private boolean mScheduled;
+        private boolean mCancelled;
+
+        @Override
+        public void schedule(StartupScheduler.Step step) {
+            mStep = step;
+            mScheduled = true;
+        }
+
+        @Override
+        public void wakeUp() {
+            mMessages++;
+        }
+
+        @Override
+        public void cancel() {
+            mStep = null;
+            mMessages = 0;
+            mCancelled = true;
+        }
+
+        /**
+         * Like MessageQueue.next(), runs the idle step once per idle pass and
+         * only starts another pass after a message has been dispatched.
+         * With no messages left the Looper sleeps and this returns.
+         */
+        void runUntilAsleep() {
+            boolean idlePass = true;
+            while (idlePass && mStep != null) {
+                mMessages = 0;
+                if (!mStep.run()) {
+                    mStep = null;
+                }
+                idlePass = mMessages > 0;
+            }
+        }
+
+        boolean isScheduled() {
+            return mScheduled;
+        }
+
+        boolean isCancelled() {
+            return mCancelled;
+        }
+    }
+}